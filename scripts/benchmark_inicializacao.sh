@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Mede o tempo até o primeiro tick de simulação, até o primeiro ciclo de display
+# e o RSS do processo, nos modos headless e gráfico, com e sem o arquivo CDS.
+#
+# Cada execução roda com --benchmark, que encerra o simulador após o primeiro ciclo
+# e imprime uma linha "BENCHMARK modo=... primeiro_tick_ms=... primeiro_display_ms=... rss_kb=...".
+# Os tempos são contados a partir do início da JVM.
+# Cada execução tem um tempo limite; execuções que falham ou travam são reportadas como FALHA.
+# O JAR é recompilado se o código for alterado; um simulador.jsa anterior ao JAR é ignorado.
+#
+# Uso: scripts/benchmark_inicializacao.sh [repeticoes] [tempo_limite_s]
+#   O modo gráfico só é medido se houver ambiente gráfico (variável DISPLAY definida).
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+REPETICOES="${1:-5}"
+TEMPO_LIMITE_S="${2:-30}"
+
+# Recompila o JAR se ele não existir ou estiver mais antigo que o código/recursos,
+# para nunca medir uma versão desatualizada do simulador.
+if [ ! -f simulador.jar ] || [ -n "$(find src resources/images -newer simulador.jar -print -quit)" ]; then
+    echo "simulador.jar ausente ou desatualizado. Recompilando..."
+    rm -rf bin
+    javac -encoding UTF-8 -d bin $(find src -name '*.java')
+    jar --create --file simulador.jar --main-class br.com.simulador.hidrometro.Main -C bin . -C resources images
+fi
+
+MODOS=("--headless")
+if [ -n "${DISPLAY:-}" ]; then
+    MODOS+=("")
+fi
+
+CONFIGURACOES_JVM=("-Xshare:auto")
+# A JVM ignora silenciosamente um arquivo CDS gerado a partir de outro JAR,
+# então só mede com CDS se simulador.jsa for mais recente que simulador.jar.
+if [ -f simulador.jsa ] && [ simulador.jsa -nt simulador.jar ]; then
+    CONFIGURACOES_JVM+=("-XX:SharedArchiveFile=simulador.jsa")
+elif [ -f simulador.jsa ]; then
+    echo "AVISO: simulador.jsa é anterior a simulador.jar e foi ignorado. Gere-o novamente com scripts/gerar_cds.sh." >&2
+fi
+
+for opcoesJvm in "${CONFIGURACOES_JVM[@]}"; do
+    for modo in "${MODOS[@]}"; do
+        echo "### JVM: ${opcoesJvm} | argumentos: --benchmark ${modo}"
+        for _ in $(seq "$REPETICOES"); do
+            timeout "$TEMPO_LIMITE_S" java "$opcoesJvm" -jar simulador.jar --benchmark $modo | grep '^BENCHMARK' \
+                || echo "FALHA modo=$([ -n "$modo" ] && echo headless || echo grafico) (erro ou tempo limite de ${TEMPO_LIMITE_S}s; veja simulador.log)"
+        done
+    done
+done
@@ -0,0 +1,22 @@
+#!/usr/bin/env bash
+# Gera o arquivo de Class Data Sharing (AppCDS) do simulador.
+#
+# O simulador é empacotado em um JAR (o AppCDS não arquiva classes carregadas
+# de diretórios) e executado uma vez em modo benchmark. Ao encerrar, a JVM grava
+# em simulador.jsa todas as classes carregadas até o primeiro ciclo de display,
+# que passam a ser mapeadas direto da memória nas execuções seguintes.
+#
+# Uso: scripts/gerar_cds.sh [--headless]
+#   Sem argumentos, o arquivo inclui as classes de AWT/Swing/ImageIO (requer ambiente gráfico).
+#   Com --headless, o arquivo cobre apenas o modo headless.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+rm -rf bin
+javac -encoding UTF-8 -d bin $(find src -name '*.java')
+jar --create --file simulador.jar --main-class br.com.simulador.hidrometro.Main -C bin . -C resources images
+
+java -XX:ArchiveClassesAtExit=simulador.jsa -jar simulador.jar --benchmark "$@"
+
+echo "Arquivo CDS gerado em simulador.jsa. Execute com:"
+echo "  java -XX:SharedArchiveFile=simulador.jsa -jar simulador.jar $*"
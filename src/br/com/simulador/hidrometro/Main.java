@@ -2,6 +2,9 @@ package br.com.simulador.hidrometro;
 
 import br.com.simulador.hidrometro.controller.Controladora;
 import br.com.simulador.hidrometro.util.LogManager;
+
+import java.util.Arrays;
+import java.util.List;
 /**
  * Classe principal que serve como ponto de entrada para a aplicação
  * do Simulador de Hidrômetro.
@@ -9,19 +12,26 @@ import br.com.simulador.hidrometro.util.LogManager;
 public class Main {
     /**
      * O método principal que inicializa e executa a simulação
-     * @param args Argumentos de linha de comando (não utilizados nesta aplicação).
+     * @param args Argumentos de linha de comando. {@code --headless} executa a simulação
+     *             sem interface gráfica (apenas números no log) e {@code --benchmark}
+     *             encerra a aplicação após o primeiro ciclo, reportando as métricas de inicialização.
      */
     public static void main(String[] args) {
+        List<String> argumentos = Arrays.asList(args);
+        boolean modoGrafico = !argumentos.contains("--headless");
+        boolean modoBenchmark = argumentos.contains("--benchmark");
+
         // Configura o sistema de log para salvar em arquivo ANTES de tudo
         LogManager.setup(); //log fica em simulador.log
 
         // Cria a instância da Controladora, que é a classe central que gerencia
-        // o modelo, a visão e os loops da simulação.
-        Controladora controladora = new Controladora();
+        // o modelo, a visão e os loops da simulação. A interface gráfica só é
+        // carregada no primeiro ciclo de display, e nunca no modo headless.
+        Controladora controladora = new Controladora(modoGrafico, modoBenchmark);
 
         // Inicia os loops de simulação e de atualização da interface gráfica.
         controladora.iniciarSimulacao();
 
         System.out.println("Simulador de Hidrômetro iniciado com sucesso.");
     }
-}
\ No newline at end of file
+}
@@ -2,13 +2,13 @@ package br.com.simulador.hidrometro.controller;
 
 import br.com.simulador.hidrometro.config.Configuracao;
 import br.com.simulador.hidrometro.model.Hidrometro;
+import br.com.simulador.hidrometro.model.types.DadosLeitura;
 import br.com.simulador.hidrometro.model.types.DirecaoFluxo;
+import br.com.simulador.hidrometro.util.ExportadorMedicao;
+import br.com.simulador.hidrometro.util.MedidorInicializacao;
 import br.com.simulador.hidrometro.view.Display;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 
 import javax.swing.SwingUtilities;
 import java.util.concurrent.Executors;
@@ -20,7 +20,8 @@ import java.util.logging.Level;
 public class Controladora {
     private final Configuracao config;
     private final Hidrometro hidrometro;
-    private final Display display;
+    private final boolean modoGrafico;
+    private final boolean modoBenchmark;
     private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(3);
     private static final Logger logger = Logger.getLogger(Controladora.class.getName());
 
@@ -29,16 +30,35 @@ public class Controladora {
 
     private int ultimoMetroCubicoSalvo = -1;
 
-    public Controladora() {
+    // Display e exportador são criados sob demanda, sempre na thread do Swing (EDT).
+    // No modo gráfico, AWT/Swing e ImageIO são carregados junto com a janela, no primeiro
+    // ciclo de display; no modo headless, nunca são carregados.
+    private Display display;
+    private ExportadorMedicao exportador;
+
+    /**
+     * Constrói a Controladora e o modelo do hidrômetro.
+     * Nenhum recurso gráfico é carregado aqui: a janela só é criada no primeiro ciclo de display.
+     * @param modoGrafico {@code true} para exibir a janela do hidrômetro; {@code false} para rodar headless.
+     * @param modoBenchmark {@code true} para encerrar após o primeiro ciclo de display, reportando as métricas de inicialização.
+     */
+    public Controladora(boolean modoGrafico, boolean modoBenchmark) {
         this.config = new Configuracao();
         this.hidrometro = new Hidrometro(
                 config.getDouble("bitola_mm"),
                 config.getDouble("max_volume_m3")
         );
-        this.display = new Display();
+        this.modoGrafico = modoGrafico;
+        this.modoBenchmark = modoBenchmark;
     }
 
     public void iniciarSimulacao() {
+        // No modo gráfico, o toolkit é inicializado aqui, na thread principal, para que uma
+        // falha do ambiente gráfico encerre o programa antes de os loops começarem.
+        if (modoGrafico) {
+            Display.inicializarAmbienteGrafico();
+        }
+
         long deltaTSimulacaoMs = config.getInt("delta_t_simulacao_ms");
         long intervaloDisplayMs = config.getInt("intervalo_update_display_ms");
 
@@ -52,6 +72,7 @@ public class Controladora {
 
         double deltaTSegundos = config.getInt("delta_t_simulacao_ms") / 1000.0;
         hidrometro.simularPasso(deltaTSegundos, config.getDouble("fator_ar"));
+        MedidorInicializacao.registrarPrimeiroTick();
     }
 
     /**
@@ -97,20 +118,66 @@ public class Controladora {
     }
 
     private void loopDeDisplay() {
+        // Uma exceção não tratada cancelaria silenciosamente este loop no executor,
+        // deixando a aplicação rodando sem display nem log. Por isso, qualquer falha é fatal.
+        try {
+            executarCicloDeDisplay();
+        } catch (Throwable e) {
+            logger.log(Level.SEVERE, "ERRO CRÍTICO: Falha no ciclo de atualização do display.", e);
+            System.exit(1);
+        }
+    }
+
+    private void executarCicloDeDisplay() {
         var dadosAtuais = hidrometro.getDadosLeitura();
 
         logger.log(Level.INFO, String.format("ESTADO: Volume = %.4f m³ | Pressão = %.2f bar",
                 dadosAtuais.volumeM3(),
                 dadosAtuais.pressaoBar()));
 
+        // No modo headless, apenas os números são registrados: AWT/Swing nunca são carregados.
+        if (!modoGrafico) {
+            concluirCicloDeDisplay();
+            return;
+        }
+
         // A lógica de salvar a imagem agora está dentro do 'invokeLater' para garantir
         // que ela seja executada somente APÓS a atualização da imagem no display.
         SwingUtilities.invokeLater(() -> {
-            display.atualizar(dadosAtuais);
+            atualizarDisplay(dadosAtuais);
             verificarESalvarImagem(dadosAtuais.volumeM3());
+            concluirCicloDeDisplay();
         });
     }
 
+    /**
+     * Atualiza a janela do hidrômetro, criando-a no primeiro uso.
+     * Deve ser chamado apenas na thread do Swing (EDT).
+     * @param dados Os dados de leitura a serem exibidos.
+     */
+    private void atualizarDisplay(DadosLeitura dados) {
+        if (display == null) {
+            display = new Display();
+        }
+        display.atualizar(dados);
+    }
+
+    /**
+     * Marca o fim de um ciclo de display. Ciclos anteriores ao primeiro tick de simulação
+     * são ignorados, para que o primeiro display medido sempre mostre um dado simulado.
+     * No modo benchmark, reporta as métricas de inicialização e encerra a aplicação.
+     */
+    private void concluirCicloDeDisplay() {
+        if (!MedidorInicializacao.houvePrimeiroTick()) {
+            return;
+        }
+        MedidorInicializacao.registrarPrimeiroDisplay();
+        if (modoBenchmark) {
+            System.out.println(MedidorInicializacao.relatorio(modoGrafico ? "grafico" : "headless"));
+            System.exit(0);
+        }
+    }
+
     /**
      * Verifica se a parte inteira do volume foi alterada (novo m³ completado)
      * e, em caso afirmativo, salva a imagem atual do hidrômetro em um arquivo.
@@ -129,29 +196,11 @@ public class Controladora {
                 return;
             }
 
-            try {
-                // A matrícula agora é uma variável local, pois só é usada neste método.
+            if (exportador == null) {
                 // IMPORTANTE: Altere o valor abaixo para a sua matrícula SUAP.
-                final String matriculaSUAP = "202311250023";
-
-                File diretorio = new File("Medicoes_" + matriculaSUAP);
-
-                // Verifica se o diretório não existe E se a criação falhou.
-                if (!diretorio.exists() && !diretorio.mkdirs()) {
-                    logger.log(Level.SEVERE, "Falha ao criar o diretório para salvar a medição: " + diretorio.getAbsolutePath());
-                    return; // Aborta a operação de salvamento se o diretório não pôde ser criado.
-                }
-
-                int numeroArquivo = ((metroCubicoAtual - 1) % 99) + 1;
-                String nomeArquivo = String.format("%02d.jpeg", numeroArquivo);
-                File arquivoDeSaida = new File(diretorio, nomeArquivo);
-
-                ImageIO.write(imagemParaSalvar, "jpeg", arquivoDeSaida);
-                logger.log(Level.INFO, "Medição salva em: " + arquivoDeSaida.getAbsolutePath());
-
-            } catch (IOException e) {
-                logger.log(Level.SEVERE, "Ocorreu um erro ao salvar a imagem da medição.", e);
+                exportador = new ExportadorMedicao("202311250023");
             }
+            exportador.salvar(imagemParaSalvar, metroCubicoAtual);
         }
     }
 }
\ No newline at end of file
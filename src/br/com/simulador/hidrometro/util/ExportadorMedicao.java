@@ -0,0 +1,53 @@
+package br.com.simulador.hidrometro.util;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Responsável por salvar em disco os snapshots (JPEG) do display do hidrômetro.
+ * Separa da Controladora a responsabilidade de nomear e gravar os arquivos de medição.
+ */
+public class ExportadorMedicao {
+
+    private static final Logger logger = Logger.getLogger(ExportadorMedicao.class.getName());
+
+    private final File diretorio;
+
+    /**
+     * Constrói o exportador apontando para a pasta de medições do aluno.
+     * @param matriculaSUAP A matrícula usada para nomear a pasta {@code Medicoes_<matricula>}.
+     */
+    public ExportadorMedicao(String matriculaSUAP) {
+        this.diretorio = new File("Medicoes_" + matriculaSUAP);
+    }
+
+    /**
+     * Salva a imagem do hidrômetro referente ao m³ informado.
+     * Os arquivos são numerados de 01 a 99, reaproveitando os nomes de forma circular.
+     * @param imagem A imagem atual do display.
+     * @param metroCubico O m³ completado que originou a medição.
+     */
+    public void salvar(BufferedImage imagem, int metroCubico) {
+        try {
+            // Verifica se o diretório não existe E se a criação falhou.
+            if (!diretorio.exists() && !diretorio.mkdirs()) {
+                logger.log(Level.SEVERE, "Falha ao criar o diretório para salvar a medição: " + diretorio.getAbsolutePath());
+                return; // Aborta a operação de salvamento se o diretório não pôde ser criado.
+            }
+
+            int numeroArquivo = ((metroCubico - 1) % 99) + 1;
+            String nomeArquivo = String.format("%02d.jpeg", numeroArquivo);
+            File arquivoDeSaida = new File(diretorio, nomeArquivo);
+
+            ImageIO.write(imagem, "jpeg", arquivoDeSaida);
+            logger.log(Level.INFO, "Medição salva em: " + arquivoDeSaida.getAbsolutePath());
+
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Ocorreu um erro ao salvar a imagem da medição.", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.simulador.hidrometro.util;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+/**
+ * Coleta as métricas de inicialização usadas no benchmark de startup:
+ * o tempo desde o início da JVM até o primeiro tick de simulação, até o
+ * primeiro ciclo de display e a memória residente (RSS) do processo.
+ * Os instantes são apenas anotados durante a execução. No relatório, o RSS é lido
+ * antes de carregar a API de gerenciamento da JVM (usada para obter o instante de início),
+ * para não incluir na medição a memória das classes carregadas pelo próprio relatório.
+ */
+public class MedidorInicializacao {
+
+    private static final Logger logger = Logger.getLogger(MedidorInicializacao.class.getName());
+
+    private static volatile long instantePrimeiroTickMs = -1;
+    private static volatile long instantePrimeiroDisplayMs = -1;
+
+    private MedidorInicializacao() {
+    }
+
+    /**
+     * Anota o instante do primeiro tick de simulação. Chamadas seguintes são ignoradas.
+     */
+    public static void registrarPrimeiroTick() {
+        if (instantePrimeiroTickMs < 0) {
+            instantePrimeiroTickMs = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Anota o instante do primeiro ciclo de display concluído. Chamadas seguintes são ignoradas.
+     */
+    public static void registrarPrimeiroDisplay() {
+        if (instantePrimeiroDisplayMs < 0) {
+            instantePrimeiroDisplayMs = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Indica se o primeiro tick de simulação já foi anotado.
+     * @return {@code true} se {@link #registrarPrimeiroTick()} já foi chamado.
+     */
+    public static boolean houvePrimeiroTick() {
+        return instantePrimeiroTickMs >= 0;
+    }
+
+    /**
+     * Monta uma linha no formato {@code chave=valor} com as métricas coletadas,
+     * fácil de ser filtrada pelo script de benchmark. A mesma linha é registrada no log.
+     * @param modo O nome do modo de execução (por exemplo, "headless" ou "grafico").
+     * @return O relatório das métricas de inicialização.
+     */
+    public static String relatorio(String modo) {
+        long rssKb = lerRssKb();
+        // ProcessHandle.Info.startInstant() não serve aqui: no Linux ele é derivado do horário
+        // de boot em segundos inteiros e pode errar por centenas de milissegundos.
+        long inicioJvmMs = ManagementFactory.getRuntimeMXBean().getStartTime();
+        String relatorio = String.format("BENCHMARK modo=%s primeiro_tick_ms=%d primeiro_display_ms=%d rss_kb=%d",
+                modo,
+                instantePrimeiroTickMs - inicioJvmMs,
+                instantePrimeiroDisplayMs - inicioJvmMs,
+                rssKb);
+        logger.info(relatorio);
+        return relatorio;
+    }
+
+    /**
+     * Lê a memória residente do processo a partir de {@code /proc/self/status}.
+     * @return O RSS em kB, ou -1 se a informação não estiver disponível (sistemas não-Linux).
+     */
+    private static long lerRssKb() {
+        try {
+            for (String linha : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (linha.startsWith("VmRSS:")) {
+                    return Long.parseLong(linha.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.fine("Não foi possível ler o RSS do processo: " + e.getMessage());
+        }
+        return -1;
+    }
+}
@@ -27,6 +27,26 @@ public class Display {
     // Variável para armazenar a imagem mais recente renderizada.
     private BufferedImage imagemAtualizada;
 
+    /**
+     * Inicializa o toolkit do AWT, conectando-se ao ambiente gráfico.
+     * Deve ser chamado na thread principal antes de iniciar os loops da simulação,
+     * para que uma falha (sem ambiente gráfico, servidor X inacessível, bibliotecas
+     * nativas ausentes) encerre o programa imediatamente. A janela e a imagem base
+     * continuam sendo carregadas apenas na criação do Display.
+     */
+    public static void inicializarAmbienteGrafico() {
+        if (GraphicsEnvironment.isHeadless()) {
+            logger.severe("ERRO CRÍTICO: Ambiente gráfico indisponível. Execute o simulador com --headless.");
+            System.exit(1);
+        }
+        try {
+            Toolkit.getDefaultToolkit();
+        } catch (Throwable e) {
+            logger.log(Level.SEVERE, "ERRO CRÍTICO: Falha ao inicializar o ambiente gráfico. Execute o simulador com --headless.", e);
+            System.exit(1);
+        }
+    }
+
     /**
      * Constrói a janela do display, carregando os recursos gráficos e
      * inicializando os componentes do Swing.